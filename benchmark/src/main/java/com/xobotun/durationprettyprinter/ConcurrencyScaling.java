@@ -0,0 +1,147 @@
+package com.xobotun.durationprettyprinter;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalUnit;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import static com.xobotun.durationprettyprinter.DurationSamples.VARIOUS_DURATIONS;
+
+/**
+ * How the printer behaves when many threads hammer it at once.<br/>
+ * <br/>
+ * Plain benchmarks are meant to be run with a different number of threads each time, see {@link #main}.
+ * If throughput stops growing with threads before the cores run out, something shared is contended
+ * (the scratch buffer pool or the unit name registry).<br/>
+ * <br/>
+ * Readers racing a writer that registers units are in {@link RegistryGrowthContention}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork()
+@State(Scope.Benchmark)
+public class ConcurrencyScaling {
+    /** Default ones plus a custom unit, so readers actually go through custom registry entries. */
+    private static final TemporalUnit[] UNITS_WITH_CUSTOM = {
+        ChronoUnit.YEARS,
+        ChronoUnit.MONTHS,
+        ChronoUnit.DAYS,
+        ChronoUnit.HOURS,
+        CustomTemporalUnit.QUARTER_HOURS,
+        ChronoUnit.MINUTES,
+        ChronoUnit.SECONDS,
+        ChronoUnit.MILLIS,
+        ChronoUnit.MICROS,
+        ChronoUnit.NANOS,
+    };
+
+    public static void main(String[] args) throws RunnerException {
+        // 1, 2, 4... up to well past the number of cores, as servers tend to run 64+ request threads.
+        TreeSet<Integer> threadCounts = new TreeSet<>(List.of(Runtime.getRuntime().availableProcessors()));
+        for (int threads = 1; threads <= Math.max(64, Runtime.getRuntime().availableProcessors() * 2); threads *= 2) {
+            threadCounts.add(threads);
+        }
+
+        for (final int threads : threadCounts) {
+            Options opt = new OptionsBuilder()
+                .include(ConcurrencyScaling.class.getSimpleName() + ".measure_")
+                .threads(threads)
+                .build();
+
+            new Runner(opt).run();
+        }
+
+        RegistryGrowthContention.main(args);
+    }
+
+    @Setup
+    public void setUp() {
+        ChronoUnitTextRepresentation.registerCustom(CustomTemporalUnit.QUARTER_HOURS, "quarter-hour", "quarter-hours");
+    }
+
+    /** Each thread walks the samples on its own, so threads don't share a cursor. */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index;
+
+        int nextIndex() {
+            index = (index + 1) & Integer.MAX_VALUE;
+            return index;
+        }
+
+        Duration next() {
+            return VARIOUS_DURATIONS.get(nextIndex() % VARIOUS_DURATIONS.size());
+        }
+    }
+
+    ///
+    // Scaling with @Threads
+    ///
+
+    @Benchmark
+    public String measure_shortenedToString(Cursor cursor) {
+        return DurationPrettyPrinter.shortenedToString(cursor.next());
+    }
+
+    @Benchmark
+    public String measure_fullToString(Cursor cursor) {
+        return DurationPrettyPrinter.fullToString(cursor.next());
+    }
+
+    @Benchmark
+    public String measure_registryLookup(Cursor cursor) {
+        return ChronoUnitTextRepresentation.getPlural(UNITS_WITH_CUSTOM[cursor.nextIndex() % UNITS_WITH_CUSTOM.length]);
+    }
+}
+
+// Just enough of a TemporalUnit to be printed. Compared by identity, so every instance is a new registry key.
+class CustomTemporalUnit implements TemporalUnit {
+    static final CustomTemporalUnit QUARTER_HOURS = new CustomTemporalUnit(Duration.ofMinutes(15));
+
+    private final Duration duration;
+
+    CustomTemporalUnit(Duration duration) {
+        this.duration = duration;
+    }
+
+    @Override
+    public Duration getDuration() {
+        return duration;
+    }
+
+    @Override
+    public boolean isDurationEstimated() {
+        return false;
+    }
+
+    @Override
+    public boolean isDateBased() {
+        return false;
+    }
+
+    @Override
+    public boolean isTimeBased() {
+        return true;
+    }
+
+    @Override
+    public <R extends Temporal> R addTo(final R temporal, final long amount) {
+        throw new UnsupportedOperationException("Never called by the printer");
+    }
+
+    @Override
+    public long between(final Temporal temporal1Inclusive, final Temporal temporal2Exclusive) {
+        return temporal1Inclusive.until(temporal2Exclusive, this);
+    }
+}
@@ -0,0 +1,147 @@
+package com.xobotun.durationprettyprinter;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalUnit;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.xobotun.durationprettyprinter.DurationSamples.VARIOUS_DURATIONS;
+
+/**
+ * Readers racing a writer that calls {@link ChronoUnitTextRepresentation#registerCustom}.<br/>
+ * <br/>
+ * Only the growth of the registry is measured: every iteration is a single shot in which the writer
+ * adds {@link #FRESH_UNITS} units never seen before, one per invocation, resizing the maps under the readers.
+ * Readers look up the units added last and assert they never see a missing unit name, which would mean
+ * a broken registry. Reader invocations do a few lookups each, to roughly keep up with the slower writer.<br/>
+ * <br/>
+ * Units can't be unregistered, so registry entries leak for the life of the fork:
+ * {@link #FRESH_UNITS} per iteration, warmup included.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = RegistryGrowthContention.FRESH_UNITS)
+@Measurement(iterations = 10, batchSize = RegistryGrowthContention.FRESH_UNITS)
+@Fork()
+@State(Scope.Benchmark)
+public class RegistryGrowthContention {
+    static final int FRESH_UNITS = 1 << 16;
+    /** Writer publishes progress in batches, so readers don't fight over a counter the registry doesn't have. */
+    private static final int PUBLISH_EVERY = 64;
+    /** How many of the units added last readers pick from. Those are the ones most likely to be caught mid-resize. */
+    private static final int RECENT_UNITS = 64;
+    private static final int LOOKUPS_PER_INVOCATION = 16;
+
+    private CustomTemporalUnit[] freshUnits;
+    /** How many of {@link #freshUnits} are registered already. Lags behind the writer by up to {@link #PUBLISH_EVERY}. */
+    private final AtomicInteger registered = new AtomicInteger();
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(RegistryGrowthContention.class.getSimpleName())
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setUp() {
+        ChronoUnitTextRepresentation.registerCustom(CustomTemporalUnit.QUARTER_HOURS, "quarter-hour", "quarter-hours");
+    }
+
+    @Setup(Level.Iteration)
+    public void freshUnits() {
+        freshUnits = new CustomTemporalUnit[FRESH_UNITS];
+        for (int i = 0; i < freshUnits.length; i++) {
+            freshUnits[i] = new CustomTemporalUnit(Duration.ofMinutes(15));
+        }
+        registered.set(0);
+    }
+
+    /** Per-thread progress, including a stale copy of {@link #registered} refreshed once in a while. */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index;
+        private int knownRegistered;
+        /** Printing readers swap the custom unit in their own copy, so there is no shared array to write to. */
+        private final TemporalUnit[] units = {ChronoUnit.DAYS, ChronoUnit.HOURS, CustomTemporalUnit.QUARTER_HOURS, ChronoUnit.MINUTES, ChronoUnit.SECONDS};
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            index = 0;
+            knownRegistered = 0;
+        }
+
+        int nextIndex() {
+            index = (index + 1) & Integer.MAX_VALUE;
+            return index;
+        }
+
+        Duration next() {
+            return VARIOUS_DURATIONS.get(nextIndex() % VARIOUS_DURATIONS.size());
+        }
+    }
+
+    @Benchmark
+    @Group("printWhileRegistering")
+    @GroupThreads(7)
+    public String printWhileRegistering_reader(Cursor cursor) {
+        cursor.units[2] = recentlyRegistered(cursor);
+        return checked(DurationPrettyPrinter.nonzeroToString(cursor.next(), cursor.units));
+    }
+
+    @Benchmark
+    @Group("printWhileRegistering")
+    @GroupThreads(1)
+    public void printWhileRegistering_writer(Cursor cursor) {
+        registerFresh(cursor);
+    }
+
+    @Benchmark
+    @Group("lookupWhileRegistering")
+    @GroupThreads(7)
+    public void lookupWhileRegistering_reader(Cursor cursor, Blackhole blackhole) {
+        for (int i = 0; i < LOOKUPS_PER_INVOCATION; i++) {
+            blackhole.consume(checked(ChronoUnitTextRepresentation.getSingular(recentlyRegistered(cursor))));
+        }
+    }
+
+    @Benchmark
+    @Group("lookupWhileRegistering")
+    @GroupThreads(1)
+    public void lookupWhileRegistering_writer(Cursor cursor) {
+        registerFresh(cursor);
+    }
+
+    /** Adds the next fresh unit and every now and then publishes the progress to the readers. */
+    private void registerFresh(Cursor cursor) {
+        int index = cursor.nextIndex() - 1;
+        if (index >= FRESH_UNITS) return;
+
+        ChronoUnitTextRepresentation.registerCustom(freshUnits[index], "fresh-unit", "fresh-units");
+        if ((index + 1) % PUBLISH_EVERY == 0) registered.set(index + 1);
+    }
+
+    private TemporalUnit recentlyRegistered(Cursor cursor) {
+        if (cursor.nextIndex() % PUBLISH_EVERY == 0) cursor.knownRegistered = registered.get();
+
+        int count = cursor.knownRegistered;
+        if (count == 0) return CustomTemporalUnit.QUARTER_HOURS;
+        return freshUnits[count - 1 - cursor.nextIndex() % Math.min(count, RECENT_UNITS)];
+    }
+
+    private static String checked(String result) {
+        if (result == null || result.contains("null")) {
+            throw new IllegalStateException("Reader observed a missing unit name: " + result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,156 @@
+package com.xobotun.durationprettyprinter;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.xobotun.durationprettyprinter.DurationPrettyPrinter.DEFAULT_TEMPORAL_BITS;
+import static com.xobotun.durationprettyprinter.DurationSamples.VARIOUS_DURATIONS;
+
+/**
+ * Pooled scratch buffers vs. the old list-and-join rendering vs. a {@link ThreadLocal} buffer,
+ * called from a pool of platform threads and from a virtual thread per task.<br/>
+ * <br/>
+ * Each operation submits a few thousand tasks, and every task prints a batch of samples, so that printing
+ * rather than task submission dominates the score. With virtual threads every task is a new thread,
+ * so the {@link ThreadLocal} variant allocates a new buffer for each of them, while the pool stays bounded.<br/>
+ * <br/>
+ * Virtual threads need JDK 21+, this module still compiles against 11, so they are looked up reflectively.
+ * Run it with -prof gc to see the allocation rate as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork()
+@State(Scope.Benchmark)
+public class ScratchBufferComparison {
+    private static final int TASKS = 4096;
+    private static final int BATCH = 16;
+
+    @Param({"platform", "virtual"})
+    public String executorType;
+
+    private ExecutorService executor;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(ScratchBufferComparison.class.getSimpleName())
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        switch (executorType) {
+            case "platform":
+                executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+                break;
+            case "virtual":
+                executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown executor type: " + executorType);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void measure_scratchBuffers(Blackhole blackhole) throws Exception {
+        forAllDurations(blackhole, DurationPrettyPrinter::nonzeroToString);
+    }
+
+    @Benchmark
+    public void measure_listJoining(Blackhole blackhole) throws Exception {
+        forAllDurations(blackhole, ListJoiningPrinter::nonzeroToString);
+    }
+
+    @Benchmark
+    public void measure_threadLocal(Blackhole blackhole) throws Exception {
+        forAllDurations(blackhole, ThreadLocalPrinter::nonzeroToString);
+    }
+
+    private void forAllDurations(Blackhole blackhole, Function<Duration, String> function) throws ExecutionException, InterruptedException {
+        List<Future<Integer>> results = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            int from = i * BATCH;
+            results.add(executor.submit(() -> printBatch(function, from)));
+        }
+        for (final Future<Integer> result : results) {
+            blackhole.consume(result.get());
+        }
+    }
+
+    // Blackhole is not meant to be shared between threads, so fold the strings into a hash instead.
+    private static int printBatch(Function<Duration, String> function, int from) {
+        int hash = 0;
+        for (int i = from; i < from + BATCH; i++) {
+            hash = 31 * hash + function.apply(VARIOUS_DURATIONS.get(i % VARIOUS_DURATIONS.size())).hashCode();
+        }
+        return hash;
+    }
+}
+
+// DurationPrettyPrinter#prettyPrint as it was before scratch buffers: a fragment per unit plus a join.
+class ListJoiningPrinter {
+    static String nonzeroToString(Duration duration) {
+        long secondsRemaining = duration.getSeconds();
+        int nanosRemaining = duration.getNano();
+        List<String> resultBits = new ArrayList<>(DEFAULT_TEMPORAL_BITS.length);
+        for (final TemporalUnit unit : DEFAULT_TEMPORAL_BITS) {
+            long numberOfFits = DurationDivisor.modulo(secondsRemaining, nanosRemaining, unit);
+            if (numberOfFits == 0) continue;
+
+            String unitName = (numberOfFits == 1) ? ChronoUnitTextRepresentation.getSingular(unit) : ChronoUnitTextRepresentation.getPlural(unit);
+            resultBits.add("" + numberOfFits + " " + unitName);
+
+            secondsRemaining -= numberOfFits * unit.getDuration().getSeconds();
+            nanosRemaining -= numberOfFits * unit.getDuration().getNano();
+        }
+        return String.join(" ", resultBits);
+    }
+}
+
+// The naive alternative to the pool: a buffer per thread, kept until the thread dies.
+class ThreadLocalPrinter {
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    static String nonzeroToString(Duration duration) {
+        StringBuilder result = BUFFER.get();
+        result.setLength(0);
+
+        long secondsRemaining = duration.getSeconds();
+        int nanosRemaining = duration.getNano();
+        for (final TemporalUnit unit : DEFAULT_TEMPORAL_BITS) {
+            long numberOfFits = DurationDivisor.modulo(secondsRemaining, nanosRemaining, unit);
+            if (numberOfFits == 0) continue;
+
+            String unitName = (numberOfFits == 1) ? ChronoUnitTextRepresentation.getSingular(unit) : ChronoUnitTextRepresentation.getPlural(unit);
+            if (result.length() > 0) result.append(' ');
+            result.append(numberOfFits).append(' ').append(unitName);
+
+            secondsRemaining -= numberOfFits * unit.getDuration().getSeconds();
+            nanosRemaining -= numberOfFits * unit.getDuration().getNano();
+        }
+        return result.toString();
+    }
+}
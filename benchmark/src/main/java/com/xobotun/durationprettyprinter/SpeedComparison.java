@@ -52,6 +52,16 @@ public class SpeedComparison {
         forAllDurations(duration -> blackhole.consume(DurationPrettyPrinter.fullToString(duration)));
     }
 
+    @Benchmark
+    public void measure_thisPrettyPrinter_shortenedToString1(Blackhole blackhole) {
+        forAllDurations(duration -> blackhole.consume(DurationPrettyPrinter.shortenedToString(duration, 1)));
+    }
+
+    @Benchmark
+    public void measure_thisPrettyPrinter_approximateToString(Blackhole blackhole) {
+        forAllDurations(duration -> blackhole.consume(DurationPrettyPrinter.approximateToString(duration)));
+    }
+
     @Benchmark
     public void measure_stackOverflow01(Blackhole blackhole) {
         forAllDurations(duration -> blackhole.consume(StackOverflow01.formatDuration(duration)));
@@ -0,0 +1,154 @@
+package com.xobotun.durationprettyprinter;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.time.Duration;
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.xobotun.durationprettyprinter.ChronoUnitTextRepresentation.getPlural;
+import static com.xobotun.durationprettyprinter.ChronoUnitTextRepresentation.getSingular;
+
+/**
+ * Rough {@link Duration} printer for user-facing messages:<br>
+ *  • PT2H51M → about 3 hours<br>
+ *  • PT20S → less than 1 minute, if the smallest unit is {@link java.time.temporal.ChronoUnit#MINUTES}<br>
+ * <br>
+ * All possible outputs are built once, so printing is just a binary search over bucket boundaries.
+ * Values are rounded to the nearest bucket, unlike {@link DurationPrettyPrinter#prettyPrint}, which truncates.<br>
+ * <br>
+ * Unit names are taken from {@link ChronoUnitTextRepresentation} at construction time, so register
+ * custom units before calling {@link #of}. Negative durations are rounded by their absolute value
+ * and keep the sign, as in the exact modes: -PT4H51M → about -5 hours.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ApproximateDurationPrinter {
+    /**
+     * Mantissas of the log-scale steps used past 10 of a unit: 12, 15, 20, 25, 30, 40, 50... 120, 150 and so on.<br>
+     * Nobody cares whether it was 43 or 44 hours when told "about 40 hours".
+     */
+    private static final int[] STEPS = {10, 12, 15, 20, 25, 30, 40, 50, 60, 70, 80, 90};
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+
+    /** Lower bounds of all buckets but the first one, split in seconds and nanos as {@link Duration} does. */
+    private final long[] boundarySeconds;
+    private final int[] boundaryNanos;
+    /** One more than boundaries, the first one is "less than" the smallest unit. */
+    private final String[] texts;
+    /** Same as {@link #texts}, but with a minus sign. */
+    private final String[] negativeTexts;
+
+    /**
+     * Builds all the buckets for the given units. Somewhat expensive, so keep the result around.
+     * @param units to be printed out. Must be listed in a descending order, like years → seconds
+     * @return a reusable thread-safe printer
+     * @throws IllegalArgumentException if there are no units
+     */
+    public static ApproximateDurationPrinter of(TemporalUnit[] units) {
+        if (units.length == 0) throw new IllegalArgumentException("At least one unit is needed to approximate a duration");
+
+        List<Duration> representatives = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        List<String> negativeTexts = new ArrayList<>();
+
+        TemporalUnit smallest = units[units.length - 1];
+        texts.add("less than 1 " + getSingular(smallest));
+        negativeTexts.add("less than 1 " + getSingular(smallest));
+
+        for (int i = units.length - 1; i >= 0; i--) {
+            TemporalUnit unit = units[i];
+            // Larger unit takes over once the count reaches it. The largest one goes on till overflow.
+            Duration limit = (i > 0) ? units[i - 1].getDuration() : null;
+
+            // Count itself may overflow only for nanoseconds being the largest unit, hence the check.
+            for (long count = 1; count > 0; count = nextCount(count)) {
+                Duration representative;
+                try {
+                    representative = unit.getDuration().multipliedBy(count);
+                } catch (ArithmeticException e) {
+                    break;
+                }
+                if (limit != null && representative.compareTo(limit) >= 0) break;
+
+                representatives.add(representative);
+                String unitName = (count == 1) ? getSingular(unit) : getPlural(unit);
+                texts.add("about " + count + " " + unitName);
+                negativeTexts.add("about -" + count + " " + unitName);
+            }
+        }
+
+        // Round to the nearest: each bucket starts halfway between neighbouring representatives.
+        // Halfway may fall on a half-nanosecond, then the first whole nanosecond past it is the boundary.
+        long[] boundarySeconds = new long[representatives.size()];
+        int[] boundaryNanos = new int[representatives.size()];
+        Duration previous = Duration.ZERO;
+        for (int i = 0; i < representatives.size(); i++) {
+            Duration current = representatives.get(i);
+            Duration boundary = previous.plus(current.minus(previous).plusNanos(1).dividedBy(2));
+            boundarySeconds[i] = boundary.getSeconds();
+            boundaryNanos[i] = boundary.getNano();
+            previous = current;
+        }
+
+        return new ApproximateDurationPrinter(boundarySeconds, boundaryNanos, texts.toArray(new String[0]), negativeTexts.toArray(new String[0]));
+    }
+
+    /**
+     * @param duration to be stringified
+     * @return "null" on null, a prebuilt approximate string otherwise.
+     */
+    public String print(Duration duration) {
+        if (duration == null) return "null";
+
+        long seconds = duration.getSeconds();
+        int nanos = duration.getNano();
+        if (seconds >= 0) return texts[bucketOf(seconds, nanos)];
+
+        // Duration#abs by hand, as it throws on the most negative duration. That one just saturates instead.
+        seconds = (nanos == 0) ? -seconds : -seconds - 1;
+        nanos = (nanos == 0) ? 0 : NANOS_PER_SECOND - nanos;
+        if (seconds < 0) {
+            seconds = Long.MAX_VALUE;
+            nanos = NANOS_PER_SECOND - 1;
+        }
+        return negativeTexts[bucketOf(seconds, nanos)];
+    }
+
+    /**
+     * Counts boundaries not greater than the duration.<br>
+     * Fixed number of iterations and no data-dependent branches apart from the ternary,
+     * which JIT is free to turn into a conditional move.
+     */
+    private int bucketOf(long seconds, int nanos) {
+        int length = boundarySeconds.length;
+        if (length == 0) return 0;
+
+        int low = 0;
+        while (length > 1) {
+            int half = length >>> 1;
+            low = reached(seconds, nanos, low + half) ? low + half : low;
+            length -= half;
+        }
+        return low + (reached(seconds, nanos, low) ? 1 : 0);
+    }
+
+    private boolean reached(long seconds, int nanos, int boundary) {
+        long boundarySecond = boundarySeconds[boundary];
+        // Non-short-circuit operators on purpose, see above.
+        return (seconds > boundarySecond) | (seconds == boundarySecond & nanos >= boundaryNanos[boundary]);
+    }
+
+    /** 1, 2... 10, then {@link #STEPS} times powers of ten. */
+    private static long nextCount(long count) {
+        if (count < 10) return count + 1;
+
+        long magnitude = 1;
+        while (count / magnitude >= 100) magnitude *= 10;
+        for (final int step : STEPS) {
+            if (step * magnitude > count) return step * magnitude;
+        }
+        return 100 * magnitude;
+    }
+}
@@ -1,18 +1,21 @@
 package com.xobotun.durationprettyprinter;
 
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 
 import java.time.temporal.TemporalUnit;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.time.temporal.ChronoUnit.*;
 
 /**
  * A dictionary for {@link java.time.temporal.ChronoUnit} human readable names.<br>
  * Mutable to allow expansion with custom {@link TemporalUnit}s,
- * though I have never seen one.<br>
+ * though I have never seen one. Both names of a unit live in a single {@link ConcurrentHashMap}
+ * entry, so threads printing while another one registers see either both new names or none.<br>
  * <br>
  * Also, this project was never intended to tackle different locales,
  * just to print good enough string for API messages or logs.<br>
@@ -21,7 +24,7 @@ import static java.time.temporal.ChronoUnit.*;
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ChronoUnitTextRepresentation {
-    private static final Map<TemporalUnit, String> PLURAL = new HashMap<>(Map.ofEntries(
+    private static final Map<TemporalUnit, String> PLURAL = Map.ofEntries(
         Map.entry(NANOS,     "nanoseconds"),
         Map.entry(MICROS,    "microseconds"),
         Map.entry(MILLIS,    "milliseconds"),
@@ -38,9 +41,9 @@ public class ChronoUnitTextRepresentation {
         Map.entry(MILLENNIA, "millenia"),
         Map.entry(ERAS,      "eras"),
         Map.entry(FOREVER,   "forevers")
-    ));
+    );
 
-    private static final Map<TemporalUnit, String> SINGULAR = new HashMap<>(Map.ofEntries(
+    private static final Map<TemporalUnit, String> SINGULAR = Map.ofEntries(
         Map.entry(NANOS,     "nanosecond"),
         Map.entry(MICROS,    "microsecond"),
         Map.entry(MILLIS,    "millisecond"),
@@ -57,14 +60,25 @@ public class ChronoUnitTextRepresentation {
         Map.entry(MILLENNIA, "millenium"),
         Map.entry(ERAS,      "era"),
         Map.entry(FOREVER,   "forever")
-    ));
+    );
 
+    /** Defaults above merged with custom units. */
+    private static final Map<TemporalUnit, Names> NAMES = new ConcurrentHashMap<>();
+
+    static {
+        SINGULAR.forEach((unit, singular) -> NAMES.put(unit, new Names(singular, PLURAL.get(unit))));
+    }
+
+    /** @return plural name, or null for null or unregistered unit */
     public static String getPlural(TemporalUnit unit) {
-        return PLURAL.get(unit);
+        Names names = (unit != null) ? NAMES.get(unit) : null;
+        return (names != null) ? names.plural : null;
     }
 
+    /** @return singular name, or null for null or unregistered unit */
     public static String getSingular(TemporalUnit unit) {
-        return SINGULAR.get(unit);
+        Names names = (unit != null) ? NAMES.get(unit) : null;
+        return (names != null) ? names.singular : null;
     }
 
     /**
@@ -73,13 +87,22 @@ public class ChronoUnitTextRepresentation {
      * @param unit to be registered
      * @param singular representation of said unit
      * @param plural representation of said unit
+     * @throws NullPointerException if any of the arguments is null
      */
     public static void registerCustom(TemporalUnit unit, String singular, String plural) {
+        Objects.requireNonNull(unit, "unit");
+        Objects.requireNonNull(singular, "singular");
+        Objects.requireNonNull(plural, "plural");
         if (unit.getDuration().getSeconds() != 0L && unit.getDuration().getNano() != 0) {
             throw new UnsupportedTemporalUnitException(unit);
         }
 
-        PLURAL.put(unit, plural);
-        SINGULAR.put(unit, singular);
+        NAMES.put(unit, new Names(singular, plural));
+    }
+
+    @AllArgsConstructor
+    private static class Names {
+        private final String singular;
+        private final String plural;
     }
 }
@@ -6,8 +6,7 @@ import lombok.NoArgsConstructor;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Objects;
 
 import static com.xobotun.durationprettyprinter.ChronoUnitTextRepresentation.getPlural;
 import static com.xobotun.durationprettyprinter.ChronoUnitTextRepresentation.getSingular;
@@ -20,7 +19,9 @@ import static com.xobotun.durationprettyprinter.DurationDivisor.modulo;
  *  • P12Y4MT10H30.999000777S → 12 years 4 months 10 hours<br>
  *  • P12Y4MT10H30.999000777S → 12 years 4 months 10 hours 1 second 999 milliseconds 777 nanoseconds<br>
  *  • P12Y4MT10H1.999000777S → 12 years 4 months 0 days 10 hours 0 minutes 1 second 999 milliseconds 0 microseconds 777 nanoseconds<br>
- * And a configurable you can choose the specifics yourself.
+ * And a configurable you can choose the specifics yourself.<br>
+ * <br>
+ * For rough user-facing values like "about 3 hours" see {@link #approximateToString} and {@link ApproximateDurationPrinter}.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class DurationPrettyPrinter {
@@ -93,6 +94,27 @@ public class DurationPrettyPrinter {
         return prettyPrint(duration, units, null, DROP_HIGHEST, DEFAULT_JOINER);
     }
 
+    ///
+    // 4th variant overloads
+    ///
+
+    /**
+     * PT2H51M → about 3 hours.<br>
+     * For other {@link TemporalUnit}s build an {@link ApproximateDurationPrinter} once and reuse it.
+     */
+    public static String approximateToString(Duration duration) {
+        return DefaultApproximatePrinter.INSTANCE.print(duration);
+    }
+
+    /**
+     * Lazy holder, so users of the exact modes don't pay for building the buckets.<br>
+     * Unit names are captured when this class loads, i.e. on the first {@link #approximateToString} call.
+     * Names registered later, even for default units, won't make it here.
+     */
+    private static class DefaultApproximatePrinter {
+        static final ApproximateDurationPrinter INSTANCE = ApproximateDurationPrinter.of(DEFAULT_TEMPORAL_BITS);
+    }
+
     ///
     // Actual logic
     ///
@@ -103,27 +125,38 @@ public class DurationPrettyPrinter {
      * @param units to be printed out. Must be listed in a descending order, like years → seconds
      * @param shortenUpTo how many significant chrono units to print, starting from the largest one. Null to print all
      * @param dropZeros whether to include zero-valued
-     * @param joiner which will be used to searate chrono units
+     * @param joiner which will be used to searate chrono units. Must not be null
      * @return "null" on null, human-readable string otherwise.
      */
     public static String prettyPrint(Duration duration, TemporalUnit[] units, Integer shortenUpTo, DropZeroMode dropZeros, String joiner) {
         if (duration == null) return "null";
+        // Otherwise "null" would end up between units.
+        Objects.requireNonNull(joiner, "joiner");
+
+        StringBuilder result = ScratchBuffers.acquire();
+        try {
+            render(result, duration, units, shortenUpTo, dropZeros, joiner);
+            return result.toString();
+        } finally {
+            ScratchBuffers.release(result);
+        }
+    }
+
+    /**
+     * Appends chrono units straight into {@code result}, without intermediate strings.<br>
+     * Parameters are the same as in {@link #prettyPrint}.
+     */
+    private static void render(StringBuilder result, Duration duration, TemporalUnit[] units, Integer shortenUpTo, DropZeroMode dropZeros, String joiner) {
         /* Keeps track of how many chrono units is there to print.                     *\
         \* When need to print all of the {@link units}, hackily use techical infinity. */
         int shortenCounter = (shortenUpTo != null) ? shortenUpTo : Integer.MAX_VALUE;
+        int printed = 0;
 
         long secondsRemaining = duration.getSeconds();
         int nanosRemaining = duration.getNano();
-//        /**
-//         * `999 milliseconds 999 microseconds 999 nanoseconds` is 49 chars long.
-//         * Optimized for this kind of {@link #shortenedToString} calls, longer
-//         * strings will cause arrays reallocations at {@link AbstractStringBuilder#newCapacity}
-//         */
-//        StringBuffer result = new StringBuffer(49);
-        List<String> resultBits = new ArrayList<>(units.length);
         for (final TemporalUnit unit : units) {
             // Check it first in case someone passes shortenUpTo equal to 0. :D
-            if (resultBits.size() >= shortenCounter) break;
+            if (printed >= shortenCounter) break;
 
             // Actually get the number to print
             long numberOfFits = modulo(secondsRemaining, nanosRemaining, unit);
@@ -131,19 +164,18 @@ public class DurationPrettyPrinter {
             // Check if need to drop it
             if (numberOfFits == 0) {
                 if (dropZeros == DROP_ZEROS) continue;
-                if (dropZeros == DROP_HIGHEST && resultBits.isEmpty()) continue;
+                if (dropZeros == DROP_HIGHEST && printed == 0) continue;
             }
 
             // Select plural or singular form.
             String unitName = (numberOfFits == 1) ? getSingular(unit) : getPlural(unit);
-            resultBits.add("" + numberOfFits + " " + unitName);
+            if (printed++ > 0) result.append(joiner);
+            result.append(numberOfFits).append(' ').append(unitName);
 
             // Decrease seconds or nanos.
             secondsRemaining -= numberOfFits * unit.getDuration().getSeconds();
             nanosRemaining -= numberOfFits * unit.getDuration().getNano();
         }
-
-        return String.join(joiner, resultBits);
     }
 
 }
@@ -0,0 +1,80 @@
+package com.xobotun.durationprettyprinter;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A tiny bounded pool of reusable {@link StringBuilder}s for the String-returning methods.<br>
+ * <br>
+ * Not a {@link ThreadLocal} on purpose: with millions of virtual threads each of them would
+ * get its own buffer and keep it until the thread dies. Here the number of retained buffers
+ * is capped by the number of slots, and a thread that finds no free slot just allocates
+ * a throwaway buffer.<br>
+ * <br>
+ * {@link StringBuilder} keeps Latin-1 text in a {@code byte[]}, so only the final
+ * {@link StringBuilder#toString()} copy gets allocated per call.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class ScratchBuffers {
+    /**
+     * `999 milliseconds 999 microseconds 999 nanoseconds` is 49 chars long.
+     * Enough for {@link DurationPrettyPrinter#shortenedToString} calls without any reallocation.
+     */
+    static final int INITIAL_CAPACITY = 64;
+    /** Anything grown larger than this is left to the GC, so a single weird call won't pin lots of memory. */
+    static final int MAX_RETAINED_CAPACITY = 1024;
+    /** How many neighbouring slots to check before giving up. Keeps acquire/release constant-time. */
+    private static final int PROBES = 2;
+    /** References are 4-8 bytes, so 16 of them span at least one 64-byte cache line. Prevents false sharing between slots. */
+    private static final int PADDING = 16;
+
+    /** Power of two, so that {@link #index} is a mask instead of a division. */
+    private static final int SLOTS = Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) << 1;
+    private static final AtomicReferenceArray<StringBuilder> POOL = new AtomicReferenceArray<>(SLOTS * PADDING);
+
+    /**
+     * @return an empty builder, either a pooled one or a freshly allocated
+     */
+    static StringBuilder acquire() {
+        int start = homeSlot();
+        for (int i = 0; i < PROBES; i++) {
+            StringBuilder buffer = POOL.getAndSet(index(start + i), null);
+            if (buffer != null) {
+                buffer.setLength(0);
+                return buffer;
+            }
+        }
+        return new StringBuilder(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the builder to the pool, if there is a free slot and it has not grown too large.
+     * The caller must not touch the builder afterwards.
+     * @param buffer previously obtained via {@link #acquire()}
+     */
+    static void release(StringBuilder buffer) {
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) return;
+
+        int start = homeSlot();
+        for (int i = 0; i < PROBES; i++) {
+            if (POOL.compareAndSet(index(start + i), null, buffer)) return;
+        }
+    }
+
+    /** Number of buffers this pool may hold at most. */
+    static int capacity() {
+        return SLOTS;
+    }
+
+    private static int homeSlot() {
+        // Identity hash is stable per thread and spreads virtual threads as well as platform ones.
+        int hash = System.identityHashCode(Thread.currentThread());
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int index(int slot) {
+        return (slot & (SLOTS - 1)) * PADDING;
+    }
+}
@@ -0,0 +1,147 @@
+package com.xobotun.durationprettyprinter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApproximateDurationPrinterTest {
+    private static final ApproximateDurationPrinter HOURS_AND_MINUTES = ApproximateDurationPrinter.of(new TemporalUnit[]{
+        ChronoUnit.DAYS,
+        ChronoUnit.HOURS,
+        ChronoUnit.MINUTES,
+    });
+
+    @Test
+    void roundsUpToNearest() {
+        String actual = HOURS_AND_MINUTES.print(Duration.ofHours(2).plusMinutes(51));
+
+        assertEquals("about 3 hours", actual);
+    }
+
+    @Test
+    void roundsDownToNearest() {
+        String actual = HOURS_AND_MINUTES.print(Duration.ofHours(3).plusMinutes(29));
+
+        assertEquals("about 3 hours", actual);
+    }
+
+    @Test
+    void halfwayGoesUp() {
+        String actual = HOURS_AND_MINUTES.print(Duration.ofSeconds(90));
+
+        assertEquals("about 2 minutes", actual);
+    }
+
+    @Test
+    void belowSmallestUnit() {
+        String actual = HOURS_AND_MINUTES.print(Duration.ofSeconds(29));
+
+        assertEquals("less than 1 minute", actual);
+    }
+
+    @Test
+    void singular() {
+        String actual = HOURS_AND_MINUTES.print(Duration.ofSeconds(30));
+
+        assertEquals("about 1 minute", actual);
+    }
+
+    @Test
+    void logScaleStepsPastTen() {
+        String actual = HOURS_AND_MINUTES.print(Duration.ofMinutes(43));
+
+        assertEquals("about 40 minutes", actual);
+    }
+
+    @Test
+    void largerUnitTakesOver() {
+        String actual = HOURS_AND_MINUTES.print(Duration.ofHours(22));
+
+        assertEquals("about 1 day", actual);
+    }
+
+    @Test
+    void largestUnitIsUnbounded() {
+        String actual = HOURS_AND_MINUTES.print(Duration.ofDays(1234));
+
+        assertEquals("about 1200 days", actual);
+    }
+
+    @Test
+    void maxDuration() {
+        String actual = DurationPrettyPrinter.approximateToString(Duration.ofSeconds(Long.MAX_VALUE, 999_999_999));
+
+        // 300 billion years no longer fit into a Duration, so that's the largest bucket.
+        assertEquals("about 250000000000 years", actual);
+    }
+
+    @Test
+    void zeroIsBelowSmallestUnit() {
+        String actual = DurationPrettyPrinter.approximateToString(Duration.ZERO);
+
+        assertEquals("less than 1 nanosecond", actual);
+    }
+
+    @Test
+    void oneNanosecond() {
+        String actual = DurationPrettyPrinter.approximateToString(Duration.ofNanos(1));
+
+        assertEquals("about 1 nanosecond", actual);
+    }
+
+    @Test
+    void twoNanoseconds() {
+        String actual = DurationPrettyPrinter.approximateToString(Duration.ofNanos(2));
+
+        assertEquals("about 2 nanoseconds", actual);
+    }
+
+    @Test
+    void subsecondPrecision() {
+        String actual = DurationPrettyPrinter.approximateToString(Duration.ofNanos(1_499_999));
+
+        assertEquals("about 1 millisecond", actual);
+    }
+
+    @Test
+    void negativeKeepsSign() {
+        String actual = HOURS_AND_MINUTES.print(Duration.ofHours(-5));
+
+        assertEquals("about -5 hours", actual);
+    }
+
+    @Test
+    void negativeRoundsByAbsoluteValue() {
+        String actual = HOURS_AND_MINUTES.print(Duration.ofHours(-4).minusMinutes(51));
+
+        assertEquals("about -5 hours", actual);
+    }
+
+    @Test
+    void negativeBelowSmallestUnit() {
+        String actual = HOURS_AND_MINUTES.print(Duration.ofSeconds(-29));
+
+        assertEquals("less than 1 minute", actual);
+    }
+
+    @Test
+    void minDuration() {
+        String actual = DurationPrettyPrinter.approximateToString(Duration.ofSeconds(Long.MIN_VALUE));
+
+        assertEquals("about -250000000000 years", actual);
+    }
+
+    @Test
+    void noUnitsMustFail() {
+        assertThrowsExactly(IllegalArgumentException.class, () -> ApproximateDurationPrinter.of(new TemporalUnit[0]));
+    }
+
+    @Test
+    void nullIsNull() {
+        assertEquals("null", DurationPrettyPrinter.approximateToString(null));
+    }
+}
@@ -2,6 +2,8 @@ package com.xobotun.durationprettyprinter;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.temporal.ChronoUnit;
+
 import static com.xobotun.durationprettyprinter.WeirdTemporalUnit.WEIRD;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -11,4 +13,15 @@ class ChronoUnitTextRepresentationTest {
     void registerCustom_mustFail() {
         assertThrowsExactly(UnsupportedTemporalUnitException.class, () -> ChronoUnitTextRepresentation.registerCustom(WEIRD, "weird", "weirds"));
     }
+
+    @Test
+    void registerCustom_nullNameMustFail() {
+        assertThrowsExactly(NullPointerException.class, () -> ChronoUnitTextRepresentation.registerCustom(ChronoUnit.HOURS, null, "hours"));
+    }
+
+    @Test
+    void nullUnitHasNoName() {
+        assertNull(ChronoUnitTextRepresentation.getPlural(null));
+        assertNull(ChronoUnitTextRepresentation.getSingular(null));
+    }
 }
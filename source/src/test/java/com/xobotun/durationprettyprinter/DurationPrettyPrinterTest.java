@@ -46,4 +46,9 @@ class DurationPrettyPrinterTest {
         assertEquals("", actual);
     }
 
+    @Test
+    void nullJoinerMustFail() {
+        assertThrowsExactly(NullPointerException.class, () -> prettyPrint(TEST_DURATION, DEFAULT_TEMPORAL_BITS, null, DropZeroMode.DROP_ZEROS, null));
+    }
+
 }
@@ -0,0 +1,67 @@
+package com.xobotun.durationprettyprinter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScratchBuffersTest {
+
+    @Test
+    void acquire_returnsEmptyBuffer() {
+        StringBuilder dirty = ScratchBuffers.acquire();
+        dirty.append("leftovers");
+        ScratchBuffers.release(dirty);
+
+        StringBuilder buffer = ScratchBuffers.acquire();
+
+        assertEquals(0, buffer.length());
+        ScratchBuffers.release(buffer);
+    }
+
+    @Test
+    void release_reusesBuffer() {
+        StringBuilder first = ScratchBuffers.acquire();
+        ScratchBuffers.release(first);
+
+        StringBuilder second = ScratchBuffers.acquire();
+
+        assertSame(first, second);
+        ScratchBuffers.release(second);
+    }
+
+    @Test
+    void release_dropsOversizedBuffer() {
+        StringBuilder huge = new StringBuilder(ScratchBuffers.MAX_RETAINED_CAPACITY + 1);
+        ScratchBuffers.release(huge);
+
+        StringBuilder buffer = ScratchBuffers.acquire();
+
+        assertNotSame(huge, buffer);
+        ScratchBuffers.release(buffer);
+    }
+
+    @Test
+    void concurrentCallsDoNotMixOutputs() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(ScratchBuffers.capacity() * 2);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                Duration duration = Duration.ofSeconds(i);
+                results.add(executor.submit(() -> DurationPrettyPrinter.nonzeroToString(duration)));
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(DurationPrettyPrinter.nonzeroToString(Duration.ofSeconds(i)), results.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}